@@ -85,10 +85,10 @@ public class HttpRequestAccessor {
       ServerWebExchange currentReactiveExchange = CURRENT_EXCHANGE_HOLDER.get();
       Assert.notNull(currentReactiveExchange, "In reactive mode the current exchange must be stored " +
         "in HttpRequestAccessor#CURRENT_EXCHANGE_HOLDER field");
-      return currentReactiveExchange.getAttributes()
-        .entrySet().stream()
-        .map(entry -> Map.entry(entry.getKey(), String.valueOf(entry.getValue())))
-        .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+      Map<String, Object> exchangeAttributes = currentReactiveExchange.getAttributes();
+      Map<String, String> attributes = new LinkedHashMap<>();
+      exchangeAttributes.forEach((name, value) -> attributes.put(name, String.valueOf(value)));
+      return attributes;
     }
     // unknown request
     throw new IllegalArgumentException("Unknown request class: " + httpRequest.getClass());
@@ -0,0 +1,54 @@
+package pro.toparvion.sample.reactivlet.shared;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+/**
+ * JSON codec layer tuning shared by both web applications. Consists of:<ul>
+ *   <li>a Jackson module replacing reflective property access with generated accessors; chosen by
+ *   {@value #ACCESSOR_MODULE_PROPERTY} property: {@code blackbird} (default, lambda-based and thus friendly to JDK
+ *   17 access checks), {@code afterburner} (classic bytecode generation) or {@code none};</li>
+ *   <li>reactive codecs for {@link RawJson} passthrough type (its servlet converter is a standalone
+ *   {@link RawJsonHttpMessageConverter bean}).</li>
+ * </ul>
+ * Both modules are picked up by Spring Boot's auto-configured {@code ObjectMapper} and thus affect every JSON
+ * (de)serialization made through it, including the {@code /inspect} method of {@link UnifiedController}.
+ * @implNote No extra buffer pooling is introduced here as Jackson already recycles its encoding buffers per thread
+ * (see {@code com.fasterxml.jackson.core.util.BufferRecycler}) while {@link RawJson} bodies are written without any
+ * intermediate buffers at all.
+ * @author Toparvion
+ */
+@Configuration(proxyBeanMethods = false)
+class JsonCodecConfig {
+  static final String ACCESSOR_MODULE_PROPERTY = "reactivlet.json.accessor-module";
+
+  @Bean
+  @ConditionalOnProperty(name = ACCESSOR_MODULE_PROPERTY, havingValue = "blackbird", matchIfMissing = true)
+  Module blackbirdModule() {
+    return new BlackbirdModule();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = ACCESSOR_MODULE_PROPERTY, havingValue = "afterburner")
+  Module afterburnerModule() {
+    return new AfterburnerModule();
+  }
+
+  @Bean
+  @ConditionalOnWebApplication(type = REACTIVE)
+  CodecCustomizer rawJsonCodecCustomizer() {
+    return configurer -> {
+      // default config is applied in order to respect spring.codec.max-in-memory-size on decoding
+      configurer.customCodecs().registerWithDefaultConfig(new RawJsonCodecs.Decoder());
+      configurer.customCodecs().registerWithDefaultConfig(new RawJsonCodecs.Encoder());
+    };
+  }
+}
@@ -0,0 +1,56 @@
+package pro.toparvion.sample.reactivlet.shared;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An opaque JSON document kept as the very bytes it was received in. Serves as a passthrough type for proxying
+ * methods: being declared as a target type of HTTP clients (RestTemplate, OpenFeign, WebClient) and a return type of
+ * controller methods, it lets the body go through the application without being parsed into an object graph and
+ * serialized back again.
+ * @apiNote The content is neither validated nor copied, so the instance must be treated as immutable.
+ * @author Toparvion
+ * @see RawJsonHttpMessageConverter
+ * @see RawJsonCodecs
+ */
+public final class RawJson {
+
+  private final byte[] bytes;
+
+  public RawJson(byte[] bytes) {
+    Assert.notNull(bytes, "JSON bytes must not be null");
+    this.bytes = bytes;
+  }
+
+  /**
+   * @return the underlying (UTF-8 encoded) JSON bytes as is, without copying
+   */
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  public int length() {
+    return bytes.length;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return (this == o) || (o instanceof RawJson that && Arrays.equals(bytes, that.bytes));
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(bytes);
+  }
+
+  /**
+   * @return the JSON text decoded from the underlying bytes; intended for logging purposes only
+   */
+  @Override
+  public String toString() {
+    return new String(bytes, UTF_8);
+  }
+}
@@ -0,0 +1,95 @@
+package pro.toparvion.sample.reactivlet.shared;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+/**
+ * Reactive counterparts of {@link RawJsonHttpMessageConverter}. Registered in WebFlux (and thus in its WebClient)
+ * by {@link JsonCodecConfig}.
+ * @apiNote The classes are not intended to be used directly and thus are not declared {@code public}.
+ * @author Toparvion
+ */
+final class RawJsonCodecs {
+
+  private static final MimeType[] JSON_MIME_TYPES = {
+    MediaType.APPLICATION_JSON,
+    new MediaType("application", "*+json")
+  };
+
+  private RawJsonCodecs() {
+  }
+
+  /**
+   * Writes the JSON bytes by wrapping them into a data buffer, i.e. without copying.
+   */
+  static class Encoder extends AbstractEncoder<RawJson> {
+
+    Encoder() {
+      super(JSON_MIME_TYPES);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+      return RawJson.class.isAssignableFrom(elementType.toClass()) && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends RawJson> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, @Nullable MimeType mimeType,
+                                   @Nullable Map<String, Object> hints) {
+      return Flux.from(inputStream)
+        .map(rawJson -> encodeValue(rawJson, bufferFactory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(RawJson rawJson, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+      return bufferFactory.wrap(rawJson.getBytes());
+    }
+  }
+
+  /**
+   * Reads the whole body (within the configured in-memory limit) into a single {@link RawJson} instance.
+   */
+  static class Decoder extends AbstractDataBufferDecoder<RawJson> {
+
+    Decoder() {
+      super(JSON_MIME_TYPES);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+      return (elementType.resolve() == RawJson.class) && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<RawJson> decode(Publisher<DataBuffer> input, ResolvableType elementType,
+                                @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+      // a JSON document cannot be split across several instances, so the whole body is always joined
+      return Flux.from(decodeToMono(input, elementType, mimeType, hints));
+    }
+
+    @Override
+    public RawJson decode(DataBuffer dataBuffer, ResolvableType targetType,
+                          @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+      try {
+        byte[] bytes = new byte[dataBuffer.readableByteCount()];
+        dataBuffer.read(bytes);
+        return new RawJson(bytes);
+      } finally {
+        DataBufferUtils.release(dataBuffer);
+      }
+    }
+  }
+}
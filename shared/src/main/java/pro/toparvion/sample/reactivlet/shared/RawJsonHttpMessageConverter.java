@@ -0,0 +1,50 @@
+package pro.toparvion.sample.reactivlet.shared;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+
+/**
+ * A servlet-side (blocking) converter of {@link RawJson} bodies. Being a bean, it gets into the converters of both
+ * Spring WebMVC and OpenFeign (see {@code FeignClientConfig}) ahead of the Jackson one, so that proxied JSON is
+ * copied from the input stream to the output one without any parsing.
+ * @apiNote The class is not intended to be used directly and thus is not declared {@code public}.
+ * @author Toparvion
+ */
+@Component
+class RawJsonHttpMessageConverter extends AbstractHttpMessageConverter<RawJson> {
+
+  RawJsonHttpMessageConverter() {
+    super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return RawJson.class == clazz;
+  }
+
+  @Override
+  protected RawJson readInternal(Class<? extends RawJson> clazz, HttpInputMessage inputMessage) throws IOException {
+    long contentLength = inputMessage.getHeaders().getContentLength();
+    if (contentLength >= 0 && contentLength <= Integer.MAX_VALUE) {
+      // the size is known beforehand, so the bytes can be read at once without intermediate buffer growth
+      return new RawJson(inputMessage.getBody().readNBytes((int) contentLength));
+    }
+    return new RawJson(StreamUtils.copyToByteArray(inputMessage.getBody()));
+  }
+
+  @Override
+  protected Long getContentLength(RawJson rawJson, MediaType contentType) {
+    return (long) rawJson.length();
+  }
+
+  @Override
+  protected void writeInternal(RawJson rawJson, HttpOutputMessage outputMessage) throws IOException {
+    StreamUtils.copy(rawJson.getBytes(), outputMessage.getBody());
+  }
+}
@@ -3,6 +3,7 @@ package pro.toparvion.sample.reactivlet.shared;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,17 +30,22 @@ class UnifiedController {
    * @return an aggregated collection of all the extracted data
    */
   @GetMapping("/inspect")
-  Map<String, Object> inspect() {
+  Inspection inspect() {
     HttpRequest currentRequest = httpRequestAccessor.fetchCurrentRequest();
     MultiValueMap<String, String> parameters = httpRequestAccessor.getParameters(currentRequest);
     List<HttpCookie> cookies = httpRequestAccessor.getCookies(currentRequest);
     Map<String, String> attributes = httpRequestAccessor.getAttributes(currentRequest);
-    return Map.of(
-      "parameters", parameters,
-      "headers", currentRequest.getHeaders(),
-      "cookies", cookies,
-      "attributes", attributes
-    );
+    return new Inspection(parameters, currentRequest.getHeaders(), cookies, attributes);
+  }
+
+  /**
+   * The result of {@link #inspect()} method. Declared as a record (rather than a map) to let Jackson serialize it
+   * with a prebuilt serializer and generated accessors (see {@link JsonCodecConfig}) in a stable order of fields.
+   */
+  record Inspection(MultiValueMap<String, String> parameters,
+                    HttpHeaders headers,
+                    List<HttpCookie> cookies,
+                    Map<String, String> attributes) {
   }
 
 }
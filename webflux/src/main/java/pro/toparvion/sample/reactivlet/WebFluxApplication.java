@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import pro.toparvion.sample.reactivlet.shared.RawJson;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -24,6 +26,7 @@ import reactor.core.scheduler.Schedulers;
  *   <li>{@code GET /feign/{template}} proxies the {@code template} query to the target by means of OpenFeign
  *   {@link WiremockFeignClient client}</li>
  * </ul>
+ * All the methods pass the target's JSON through as {@link RawJson}, i.e. without parsing it into an object graph.
  * @author Toparvion
  */
 @Slf4j
@@ -40,6 +43,7 @@ public class WebFluxApplication {
   @Autowired
   public WebFluxApplication(WebClient.Builder webClientBuilder,
                             WiremockFeignClient feignClient,
+                            HttpMessageConverters messageConverters,
                             @Value("${wiremock.base-url}") String wiremockBaseUrl) {
     this.feignClient = feignClient;
     webClient = webClientBuilder
@@ -48,31 +52,32 @@ public class WebFluxApplication {
       .build();
     restTemplate = new RestTemplateBuilder()
       .rootUri(wiremockBaseUrl)
+      .messageConverters(messageConverters.getConverters())
       .defaultHeader("User-Agent", "DemoFluxApp")
       .build();
   }
 
   @GetMapping("/reactive/{template}")
-  Mono<Object> reactiveProxy(@PathVariable("template") String template) {
+  Mono<RawJson> reactiveProxy(@PathVariable("template") String template) {
     return webClient.get()
       .uri("/{template}", template)
       .retrieve()
-      .bodyToMono(Object.class)
+      .bodyToMono(RawJson.class)
       .doOnSubscribe(sub -> log.info("Reactive mode: proxying the query to /{}", template))
       .doOnSuccess(responseObject -> log.info("Proxy target responded with: {}", responseObject));
   }
 
   @GetMapping("/sync/{template}")
-  Mono<Object> syncProxy(@PathVariable("template") String template) {
+  Mono<RawJson> syncProxy(@PathVariable("template") String template) {
     return Mono.fromCallable(
-        () -> restTemplate.getForObject("/{template}", Object.class, template))
+        () -> restTemplate.getForObject("/{template}", RawJson.class, template))
       .subscribeOn(Schedulers.boundedElastic())
       .doOnSubscribe(sub -> log.info("Sync mode: proxying the query to /{}", template))
       .doOnSuccess(responseObject -> log.info("Proxy target responded with: {}", responseObject));
   }
 
   @GetMapping("/feign/{template}")
-  Mono<Object> feignProxy(@PathVariable("template") String template) {
+  Mono<RawJson> feignProxy(@PathVariable("template") String template) {
     return Mono.fromCallable(
         () -> feignClient.call(template))
 //      .subscribeOn(Schedulers.boundedElastic()) // commented in order to let the FeignClientConfig.blockingLoadBalancerClient act
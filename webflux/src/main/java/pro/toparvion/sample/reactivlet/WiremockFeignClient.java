@@ -3,6 +3,7 @@ package pro.toparvion.sample.reactivlet;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import pro.toparvion.sample.reactivlet.shared.RawJson;
 
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
 
@@ -14,5 +15,5 @@ import static org.springframework.web.bind.annotation.RequestMethod.GET;
 public interface WiremockFeignClient {
 
   @RequestMapping(method = GET, value = "/{template}")
-  Object call(@PathVariable String template);
+  RawJson call(@PathVariable String template);
 }
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestTemplate;
+import pro.toparvion.sample.reactivlet.shared.RawJson;
 
 /**
  * A sample WebMVC application and REST controller to showcase the way servlet-based programs utilize threads
@@ -34,12 +35,12 @@ public class WebMvcApplication {
   /**
    * {@code GET /sync/{template}} proxies the {@code template} query to the target by means of servlet {@link RestTemplate}
    * @param template the query to redirect, e.g. {@code fast} or {@code slow}
-   * @return the proxied reply from the target
+   * @return the proxied reply from the target, passed through as is
    */
   @GetMapping("/{template}")
-  Object proxy(@PathVariable("template") String template) {
+  RawJson proxy(@PathVariable("template") String template) {
     log.info("Proxying the query to /{}", template);
-    Object responseObject = restTemplate.getForObject("/{template}", Object.class, template);
+    RawJson responseObject = restTemplate.getForObject("/{template}", RawJson.class, template);
     log.info("The proxy target responded with: {}", responseObject);
     return responseObject;
   }